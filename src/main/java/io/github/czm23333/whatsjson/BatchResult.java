@@ -0,0 +1,25 @@
+package io.github.czm23333.whatsjson;
+
+import io.github.czm23333.whatsjson.json.JsonElement;
+
+public class BatchResult {
+    private final JsonElement element;
+    private final RuntimeException exception;
+
+    BatchResult(JsonElement element, RuntimeException exception) {
+        this.element = element;
+        this.exception = exception;
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    public JsonElement getElement() {
+        return element;
+    }
+
+    public RuntimeException getException() {
+        return exception;
+    }
+}
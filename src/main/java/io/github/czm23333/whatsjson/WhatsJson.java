@@ -5,17 +5,33 @@ import io.github.czm23333.whatsjson.json.*;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.commons.text.StringEscapeUtils;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 public class WhatsJson {
     private final static int MIN_SLICE_SIZE = 5000;
+    private final static int BATCH_PULL_SIZE = 16;
+    private final static int BATCH_WORKER_CAPACITY = 1 << 16;
+    private final static int GZIP_CHUNK_SIZE = 1 << 18;
+    private final static int GZIP_INPUT_BUFFER_SIZE = 1 << 16;
 
     private final static int threadCnt = Runtime.getRuntime().availableProcessors() * 2;
     private final ExecutorService threadPool = new ThreadPoolExecutor(threadCnt, threadCnt, 0L, TimeUnit.MILLISECONDS,
             new ArrayBlockingQueue<>(threadCnt * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+    private final ThreadLocal<BatchWorker> batchWorker = ThreadLocal.withInitial(BatchWorker::new);
 
     private static Triple<Boolean, Integer, Boolean> scan(ByteBuffer bytes, boolean inStr) {
         int lastComma = -1;
@@ -120,6 +136,138 @@ public class WhatsJson {
         return elementPart.element;
     }
 
+    public List<BatchResult> fromJsonBatch(List<byte[]> jsons) {
+        List<ByteBuffer> docs = new ArrayList<>(jsons.size());
+        for (byte[] json : jsons) docs.add(ByteBuffer.wrap(json));
+        return parseBatch(docs);
+    }
+
+    public List<BatchResult> fromJsonBatch(Stream<ByteBuffer> jsons) {
+        return parseBatch(jsons.map(ByteBuffer::duplicate).collect(Collectors.toList()));
+    }
+
+    private List<BatchResult> parseBatch(List<ByteBuffer> docs) {
+        BatchResult[] results = new BatchResult[docs.size()];
+        AtomicInteger next = new AtomicInteger();
+        int taskCnt = Math.min(threadCnt,
+                docs.size() / BATCH_PULL_SIZE + (docs.size() % BATCH_PULL_SIZE == 0 ? 0 : 1));
+        Future<?>[] futures = new Future<?>[taskCnt];
+        for (int i = 0; i < taskCnt; ++i) {
+            futures[i] = threadPool.submit(() -> {
+                BatchWorker worker = batchWorker.get();
+                int from;
+                while ((from = next.getAndAdd(BATCH_PULL_SIZE)) < docs.size()) {
+                    int to = Math.min(from + BATCH_PULL_SIZE, docs.size());
+                    for (int j = from; j < to; ++j) results[j] = worker.parse(docs.get(j));
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    public JsonElement fromJsonGzip(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path);
+             GZIPInputStream gzip = new GZIPInputStream(in, GZIP_INPUT_BUFFER_SIZE)) {
+            return parseGzip(gzip);
+        }
+    }
+
+    public JsonElement fromJsonGzip(InputStream in) throws IOException {
+        InputStream unclosable = new FilterInputStream(in) {
+            @Override
+            public void close() {}
+        };
+        try (GZIPInputStream gzip = new GZIPInputStream(unclosable, GZIP_INPUT_BUFFER_SIZE)) {
+            return parseGzip(gzip);
+        }
+    }
+
+    private JsonElement parseGzip(GZIPInputStream gzip) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(gzip);
+        GzipChunk[] ring = new GzipChunk[threadCnt];
+        Parser finalParser = new Parser(ByteBuffer.allocate(0), new Parser.JsonPart[16], new byte[0], 0);
+
+        int cur = 0;
+        GzipChunk chunk = acquireChunk(ring, cur, finalParser);
+        int scanned = 0;
+        boolean inStr = false;
+        boolean escaped = false;
+        boolean eof = false;
+        while (true) {
+            ByteBuffer data = chunk.data;
+            while (data.hasRemaining() && !eof) eof = channel.read(data) == -1;
+
+            int lastCut = -1;
+            for (int i = scanned; i < data.position(); ++i) {
+                byte c = data.get(i);
+                if (escaped) escaped = false;
+                else if (inStr) switch (c) {
+                    case '"' -> inStr = false;
+                    case '\\' -> escaped = true;
+                }
+                else switch (c) {
+                    case '"' -> inStr = true;
+                    case ',', '{', '}', '[', ']' -> lastCut = i;
+                }
+            }
+            scanned = data.position();
+
+            if (eof) {
+                chunk.submit(data.position());
+                break;
+            }
+            if (lastCut == -1) {
+                chunk.reserve(data.capacity());
+                continue;
+            }
+
+            chunk.submit(lastCut + 1);
+            int next = (cur + 1) % ring.length;
+            GzipChunk nextChunk = acquireChunk(ring, next, finalParser);
+            ByteBuffer tail = data.duplicate();
+            tail.limit(data.position()).position(lastCut + 1);
+            nextChunk.reserve(tail.remaining());
+            nextChunk.data.put(tail);
+            scanned = nextChunk.data.position();
+            cur = next;
+            chunk = nextChunk;
+        }
+        for (int i = 1; i <= ring.length; ++i) {
+            int index = (cur + i) % ring.length;
+            if (ring[index] != null && ring[index].future != null) acquireChunk(ring, index, finalParser);
+        }
+
+        if (finalParser.partCnt != 1 || !(finalParser.parts[0] instanceof Parser.JsonElementPart elementPart))
+            throw new IllegalSyntaxException("Incomplete json.");
+
+        return elementPart.element;
+    }
+
+    private GzipChunk acquireChunk(GzipChunk[] ring, int index, Parser finalParser) {
+        if (ring[index] == null) ring[index] = new GzipChunk();
+        GzipChunk chunk = ring[index];
+        if (chunk.future != null) {
+            try {
+                RuntimeException tmp = chunk.future.get();
+                if (tmp != null) throw tmp;
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+            RuntimeException temp = finalParser.merge(chunk.parser);
+            if (temp != null) throw temp;
+            chunk.recycle();
+        }
+        return chunk;
+    }
+
     public String toJson(JsonElement element) {
         if (element.isObject()) return toJson(element.asObject());
         else if (element.isArray()) return toJson(element.asArray());
@@ -169,10 +317,80 @@ public class WhatsJson {
         threadPool.shutdown();
     }
 
+    private class GzipChunk {
+        private ByteBuffer data = ByteBuffer.allocateDirect(GZIP_CHUNK_SIZE);
+        private Parser.JsonPart[] partBuffer = new Parser.JsonPart[GZIP_CHUNK_SIZE];
+        private byte[] byteBuffer = new byte[GZIP_CHUNK_SIZE];
+        private Parser parser = null;
+        private Future<RuntimeException> future = null;
+        private int length = 0;
+
+        public void reserve(int size) {
+            if (size < data.capacity()) return;
+            int capacity = data.capacity();
+            while (capacity <= size) capacity *= 2;
+            ByteBuffer temp = ByteBuffer.allocateDirect(capacity);
+            data.flip();
+            temp.put(data);
+            data = temp;
+            partBuffer = new Parser.JsonPart[capacity];
+            byteBuffer = new byte[capacity];
+        }
+
+        public void submit(int length) {
+            this.length = length;
+            ByteBuffer slice = data.duplicate();
+            slice.limit(length).position(0);
+            parser = new Parser(slice, partBuffer, byteBuffer, 0);
+            future = threadPool.submit(parser);
+        }
+
+        public void recycle() {
+            Arrays.fill(partBuffer, 0, length, null);
+            data.clear();
+            parser = null;
+            future = null;
+            length = 0;
+        }
+    }
+
+    private static class BatchWorker {
+        private final Parser.JsonPart[] partBuffer = new Parser.JsonPart[BATCH_WORKER_CAPACITY];
+        private final byte[] byteBuffer = new byte[BATCH_WORKER_CAPACITY];
+        private final Parser reusedParser = new Parser(ByteBuffer.allocate(0), partBuffer, byteBuffer, 0);
+
+        public BatchResult parse(ByteBuffer json) {
+            int size = json.remaining();
+            Parser parser;
+            if (size > BATCH_WORKER_CAPACITY) parser = new Parser(json, new Parser.JsonPart[size], new byte[size], 0);
+            else {
+                parser = reusedParser;
+                parser.reset(json);
+            }
+
+            RuntimeException fail;
+            try {
+                fail = parser.call();
+            } catch (RuntimeException e) {
+                fail = e;
+            }
+
+            JsonElement element = null;
+            if (fail == null) {
+                if (parser.partCnt == 1 && parser.parts[0] instanceof Parser.JsonElementPart elementPart)
+                    element = elementPart.element;
+                else fail = new IllegalSyntaxException("Incomplete json.");
+            }
+            if (parser == reusedParser) Arrays.fill(partBuffer, 0, size, null);
+
+            return new BatchResult(element, fail);
+        }
+    }
+
     private static class Parser implements Callable<RuntimeException> {
-        public final JsonPart[] parts;
+        public JsonPart[] parts;
         private final int offset;
-        private final ByteBuffer slice;
+        private ByteBuffer slice;
         public RuntimeException fail = null;
         private final byte[] buffer;
         public int partCnt = 0;
@@ -186,6 +404,14 @@ public class WhatsJson {
             this.offset = offset;
         }
 
+        public void reset(ByteBuffer slice) {
+            this.slice = slice;
+            fail = null;
+            partCnt = 0;
+            inStr = false;
+            byteCnt = 0;
+        }
+
         private void formMemberOrInsert(JsonElementPart part) {
             if (partCnt > 0 && parts[offset + partCnt - 1] instanceof DeclareMemberPart declareMemberPart)
                 parts[offset + partCnt - 1] = new MemberPart(declareMemberPart.name, part.element);
@@ -194,6 +420,8 @@ public class WhatsJson {
 
         public RuntimeException merge(Parser other) {
             fail = null;
+            if (offset + partCnt + other.partCnt > parts.length)
+                parts = Arrays.copyOf(parts, Math.max(parts.length * 2, offset + partCnt + other.partCnt));
 
             for (int i = 0; i < other.partCnt; ++i) {
                 JsonPart otherPart = other.parts[other.offset + i];